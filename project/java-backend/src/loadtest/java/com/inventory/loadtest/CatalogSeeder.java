@@ -0,0 +1,78 @@
+package com.inventory.loadtest;
+
+import com.inventory.model.Product;
+import com.inventory.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the embedded database with a synthetic catalogue. The seed is fixed so
+ * every run sees the same products, and a share of items start at or below their
+ * minimum stock level so the low-stock and stats queries return realistic sizes.
+ */
+public class CatalogSeeder {
+
+    private static final String[] CATEGORIES = {
+        "Electronics", "Hardware", "Packaging", "Office", "Safety", "Cleaning", "Tools", "Automotive"
+    };
+
+    private static final String[] SUPPLIERS = {
+        "Acme Corp", "Globex", "Initech", "Umbrella Supply", "Stark Industrial", "Wayne Logistics"
+    };
+
+    private static final String[] NOUNS = {
+        "Cable", "Bracket", "Carton", "Marker", "Glove", "Wrench", "Sensor", "Filter", "Tape", "Battery"
+    };
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+
+    public CatalogSeeder(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    // Returns the seeded products in popularity order (index 0 is the hottest SKU)
+    public List<Product> seed(int catalogSize) {
+        Random random = new Random(42);
+        List<Product> seeded = new ArrayList<>(catalogSize);
+        List<Product> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (int i = 0; i < catalogSize; i++) {
+            String noun = NOUNS[random.nextInt(NOUNS.length)];
+            int minStockLevel = 5 + random.nextInt(20);
+            int quantity = random.nextInt(10) == 0 ? random.nextInt(minStockLevel + 1) : minStockLevel + random.nextInt(500);
+            BigDecimal price = BigDecimal.valueOf(0.5 + random.nextDouble() * 500).setScale(2, RoundingMode.HALF_UP);
+
+            batch.add(new Product(
+                    noun + " " + (i + 1),
+                    String.format("SKU-%07d", i + 1),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    quantity,
+                    price,
+                    SUPPLIERS[random.nextInt(SUPPLIERS.length)],
+                    String.format("890%010d", i + 1),
+                    minStockLevel));
+
+            if (batch.size() == BATCH_SIZE) {
+                seeded.addAll(productRepository.saveAll(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            seeded.addAll(productRepository.saveAll(batch));
+        }
+        return seeded;
+    }
+
+    public static String searchTermFor(Product product) {
+        // Search by noun and leading digit, e.g. "Cable 1", which matches a realistic slice of the catalogue
+        String name = product.getName();
+        int space = name.indexOf(' ');
+        return space > 0 ? name.substring(0, space + 2) : name;
+    }
+}
@@ -0,0 +1,126 @@
+package com.inventory.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and outcome counters for one {@link Operation}. Latency is
+ * measured from the request's intended start time, not the time it was sent.
+ *
+ * Successful responses and unsuccessful ones (429s, other errors and transport
+ * failures) go into separate histograms. Fast rejections would otherwise pull the
+ * percentiles down and hide how the requests that were actually served behaved.
+ *
+ * Offered load is counted when a request is sent, not when it completes, so
+ * requests that time out or are still in flight at the end are not lost from it.
+ */
+public class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final Operation operation;
+    private final Histogram served = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final Histogram unsuccessful = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    public void recordSent() {
+        sent.increment();
+    }
+
+    public void record(long latencyNanos, int status) {
+        long value = Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS);
+        if (status >= 200 && status < 300) {
+            served.recordValue(value);
+            return;
+        }
+        unsuccessful.recordValue(value);
+        if (status == 429) {
+            shed.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    public void recordFailure(long latencyNanos) {
+        unsuccessful.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        failed.increment();
+    }
+
+    // The client gave up waiting for a response
+    public void recordTimeout(long latencyNanos) {
+        unsuccessful.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        timedOut.increment();
+    }
+
+    // Every request sent in the measured phase, whether or not it completed
+    public long getOfferedCount() {
+        return sent.sum();
+    }
+
+    public long getServedCount() {
+        return served.getTotalCount();
+    }
+
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    // Sent but not completed by the time the run stopped waiting
+    public long getPendingCount() {
+        return Math.max(0, sent.sum() - served.getTotalCount() - unsuccessful.getTotalCount());
+    }
+
+    // Rates are per second of the configured measured phase, not of the wall-clock run
+    public void printSummary(PrintStream out, double measuredSeconds) {
+        out.printf("%-38s %9.1f %9.1f %7d %7d %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation.getEndpoint(),
+                getOfferedCount() / measuredSeconds,
+                served.getTotalCount() / measuredSeconds,
+                shed.sum(),
+                failed.sum(),
+                timedOut.sum(),
+                getPendingCount(),
+                millis(served.getValueAtPercentile(50)),
+                millis(served.getValueAtPercentile(90)),
+                millis(served.getValueAtPercentile(99)),
+                millis(served.getValueAtPercentile(99.9)),
+                millis(served.getMaxValue()),
+                millis(unsuccessful.getValueAtPercentile(99)));
+    }
+
+    // Full percentile distributions in milliseconds, loadable by the HdrHistogram plotter
+    public void printServedDistribution(PrintStream out) {
+        served.outputPercentileDistribution(out, 1_000_000.0);
+    }
+
+    public void printUnsuccessfulDistribution(PrintStream out) {
+        unsuccessful.outputPercentileDistribution(out, 1_000_000.0);
+    }
+
+    public boolean hasUnsuccessful() {
+        return unsuccessful.getTotalCount() > 0;
+    }
+
+    public static void printHeader(PrintStream out) {
+        out.printf("%-38s %9s %9s %7s %7s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "offered/s", "goodput/s", "429", "errors", "timeouts", "pending",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "rej p99");
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public Operation getOperation() { return operation; }
+}
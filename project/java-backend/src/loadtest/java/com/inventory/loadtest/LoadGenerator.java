@@ -0,0 +1,174 @@
+package com.inventory.loadtest;
+
+import com.inventory.model.Product;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop traffic generator.
+ *
+ * Arrivals follow a Poisson process at the configured rate and are scheduled
+ * independently of responses: a slow server does not slow the sender down, and
+ * every latency is measured from the moment the request should have been sent.
+ * This avoids coordinated omission, where a closed-loop client quietly stops
+ * sampling exactly when the server is struggling.
+ *
+ * Each request is tagged with the phase it was sent in, and only completions of
+ * requests sent during the measured phase are recorded. Slow warm-up requests
+ * that finish late can never leak into the results.
+ */
+public class LoadGenerator {
+
+    private static final int WARMUP = 0;
+    private static final int MEASURED = 1;
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final List<Product> catalog;
+    private final ZipfDistribution popularity;
+    private final Operation[] weightedOperations;
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private final HttpClient client;
+
+    // In-flight requests per phase, indexed by WARMUP and MEASURED
+    private final AtomicLong[] outstanding = {new AtomicLong(), new AtomicLong()};
+
+    public LoadGenerator(LoadTestConfig config, String baseUrl, List<Product> catalog) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.catalog = catalog;
+        this.popularity = new ZipfDistribution(catalog.size(), config.getZipfExponent());
+        this.weightedOperations = expandMix(config.getMix());
+        for (Operation operation : config.getMix().keySet()) {
+            stats.put(operation, new EndpointStats(operation));
+        }
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    // Run warm-up then the measured phase, waiting for stragglers after each
+    public void run() {
+        if (!config.getWarmup().isZero()) {
+            drive(config.getWarmup(), WARMUP);
+            awaitOutstanding(WARMUP);
+        }
+        drive(config.getDuration(), MEASURED);
+        awaitOutstanding(MEASURED);
+    }
+
+    // Measured requests that had not completed when the run gave up waiting
+    public long getOutstanding() {
+        return outstanding[MEASURED].get();
+    }
+
+    public Map<Operation, EndpointStats> getStats() {
+        return stats;
+    }
+
+    private void drive(Duration phase, int phaseTag) {
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getRequestsPerSecond();
+        long start = System.nanoTime();
+        long end = start + phase.toNanos();
+        long intendedStart = start;
+
+        while (true) {
+            // Exponential inter-arrival times give a Poisson arrival process
+            intendedStart += (long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos);
+            if (intendedStart >= end) {
+                return;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(nextOperation(), intendedStart, phaseTag);
+        }
+    }
+
+    private void send(Operation operation, long intendedStart, int phaseTag) {
+        EndpointStats endpointStats = stats.get(operation);
+        outstanding[phaseTag].incrementAndGet();
+        if (phaseTag == MEASURED) {
+            endpointStats.recordSent();
+        }
+        client.sendAsync(buildRequest(operation), HttpResponse.BodyHandlers.discarding())
+              .whenComplete((response, error) -> {
+                  long latency = System.nanoTime() - intendedStart;
+                  if (phaseTag == MEASURED) {
+                      if (unwrap(error) instanceof HttpTimeoutException) {
+                          endpointStats.recordTimeout(latency);
+                      } else if (error != null) {
+                          endpointStats.recordFailure(latency);
+                      } else {
+                          endpointStats.record(latency, response.statusCode());
+                      }
+                  }
+                  outstanding[phaseTag].decrementAndGet();
+              });
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        Product product = catalog.get(popularity.next());
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(config.getRequestTimeout());
+        String products = baseUrl + "/api/products";
+
+        switch (operation) {
+            case SCAN_BARCODE -> builder.uri(URI.create(products + "/barcode/" + product.getBarcode())).GET();
+            case SCAN_SKU -> builder.uri(URI.create(products + "/sku/" + product.getSku())).GET();
+            case STOCK_UPDATE -> builder.uri(URI.create(products + "/" + product.getId() + "/stock"))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            "{\"quantity\":" + ThreadLocalRandom.current().nextInt(0, 500) + "}"));
+            case SEARCH -> builder.uri(URI.create(products + "/search?q="
+                    + URLEncoder.encode(CatalogSeeder.searchTermFor(product), StandardCharsets.UTF_8))).GET();
+            case STATS -> builder.uri(URI.create(products + "/stats")).GET();
+            case LOW_STOCK -> builder.uri(URI.create(products + "/low-stock")).GET();
+            case LIST_ALL -> builder.uri(URI.create(products)).GET();
+        }
+        return builder.build();
+    }
+
+    private Operation nextOperation() {
+        return weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+    }
+
+    private void awaitOutstanding(int phaseTag) {
+        long deadline = System.nanoTime() + config.getRequestTimeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (outstanding[phaseTag].get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static Operation[] expandMix(Map<Operation, Integer> mix) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Operation[] expanded = new Operation[total];
+        int index = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                expanded[index++] = entry.getKey();
+            }
+        }
+        return expanded;
+    }
+}
@@ -0,0 +1,88 @@
+package com.inventory.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Harness settings, read from {@code loadtest.*} system properties so they can be
+ * passed straight through Maven: {@code mvn -Ploadtest test-compile exec:java -Dloadtest.rate=800}.
+ */
+public class LoadTestConfig {
+
+    private static final String DEFAULT_MIX = "scan=55,sku=10,stock=15,search=8,stats=5,lowstock=4,list=3";
+
+    private final int catalogSize;
+    private final double zipfExponent;
+    private final double requestsPerSecond;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration requestTimeout;
+    private final Map<Operation, Integer> mix;
+
+    private LoadTestConfig(int catalogSize, double zipfExponent, double requestsPerSecond, Duration warmup,
+                           Duration duration, Duration requestTimeout, Map<Operation, Integer> mix) {
+        this.catalogSize = catalogSize;
+        this.zipfExponent = zipfExponent;
+        this.requestsPerSecond = requestsPerSecond;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.requestTimeout = requestTimeout;
+        this.mix = mix;
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        int catalogSize = Integer.getInteger("loadtest.catalogSize", 10_000);
+        if (catalogSize < 1) {
+            throw new IllegalArgumentException("loadtest.catalogSize must be at least 1, got " + catalogSize);
+        }
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "300"));
+        // Also rejects NaN and Infinity, which would break the arrival schedule
+        if (!(rate > 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("loadtest.rate must be a positive number of requests per second, got " + rate);
+        }
+        return new LoadTestConfig(
+                catalogSize,
+                Double.parseDouble(System.getProperty("loadtest.zipfExponent", "1.07")),
+                rate,
+                Duration.ofSeconds(requireAtLeast("loadtest.warmupSeconds", Long.getLong("loadtest.warmupSeconds", 10), 0)),
+                Duration.ofSeconds(requireAtLeast("loadtest.durationSeconds", Long.getLong("loadtest.durationSeconds", 60), 1)),
+                Duration.ofMillis(requireAtLeast("loadtest.timeoutMillis", Long.getLong("loadtest.timeoutMillis", 10_000), 1)),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)));
+    }
+
+    private static long requireAtLeast(String property, long value, long minimum) {
+        if (value < minimum) {
+            throw new IllegalArgumentException(property + " must be at least " + minimum + ", got " + value);
+        }
+        return value;
+    }
+
+    // Parse "scan=60,stock=15,..." into relative weights
+    static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load-test mix entry '" + entry + "', expected key=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromKey(parts[0]), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Load-test mix must contain at least one operation");
+        }
+        return mix;
+    }
+
+    // Getters
+    public int getCatalogSize() { return catalogSize; }
+    public double getZipfExponent() { return zipfExponent; }
+    public double getRequestsPerSecond() { return requestsPerSecond; }
+    public Duration getWarmup() { return warmup; }
+    public Duration getDuration() { return duration; }
+    public Duration getRequestTimeout() { return requestTimeout; }
+    public Map<Operation, Integer> getMix() { return mix; }
+}
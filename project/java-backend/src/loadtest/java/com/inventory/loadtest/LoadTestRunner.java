@@ -0,0 +1,90 @@
+package com.inventory.loadtest;
+
+import com.inventory.InventoryManagementApplication;
+import com.inventory.model.Product;
+import com.inventory.repository.ProductRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Boots the backend on a random port against an embedded H2 database, seeds a
+ * synthetic catalogue and replays a warehouse traffic mix against it.
+ *
+ * Run with: {@code mvn -Ploadtest test-compile exec:java -Dloadtest.rate=500 -Dloadtest.durationSeconds=120}.
+ * A summary table is printed per endpoint, with offered load and goodput side by
+ * side, both per second of the configured measured duration. Full latency distributions of served requests are written to
+ * {@code target/loadtest/<op>.hgrm}, and those of 429s and errors to
+ * {@code target/loadtest/<op>-rejected.hgrm}.
+ */
+public class LoadTestRunner {
+
+    private static final Path REPORT_DIR = Path.of("target", "loadtest");
+
+    public static void main(String[] args) throws IOException {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(InventoryManagementApplication.class)
+                .profiles("loadtest")
+                .run(args);
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            System.out.printf("Seeding %d products...%n", config.getCatalogSize());
+            List<Product> catalog = new CatalogSeeder(context.getBean(ProductRepository.class))
+                    .seed(config.getCatalogSize());
+
+            System.out.printf("Driving %.0f req/s against %s (warm-up %ds, measured %ds, zipf s=%.2f)%n",
+                    config.getRequestsPerSecond(), baseUrl, config.getWarmup().toSeconds(),
+                    config.getDuration().toSeconds(), config.getZipfExponent());
+            LoadGenerator generator = new LoadGenerator(config, baseUrl, catalog);
+            generator.run();
+
+            report(generator, config.getDuration().toNanos() / 1e9);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void report(LoadGenerator generator, double measuredSeconds) throws IOException {
+        long offered = generator.getStats().values().stream().mapToLong(EndpointStats::getOfferedCount).sum();
+        long served = generator.getStats().values().stream().mapToLong(EndpointStats::getServedCount).sum();
+        long timedOut = generator.getStats().values().stream().mapToLong(EndpointStats::getTimedOutCount).sum();
+
+        System.out.println();
+        EndpointStats.printHeader(System.out);
+        for (EndpointStats endpointStats : generator.getStats().values()) {
+            endpointStats.printSummary(System.out, measuredSeconds);
+        }
+        System.out.printf("%nOffered: %d requests sent in %.1fs (%.1f req/s)%n", offered, measuredSeconds, offered / measuredSeconds);
+        System.out.printf("Goodput: %d served with 2xx (%.1f req/s)%n", served, served / measuredSeconds);
+        System.out.println("Latency percentiles cover 2xx responses only; 'rej p99' is for 429s, errors and timeouts");
+        if (timedOut > 0) {
+            System.out.printf("%d requests timed out on the client%n", timedOut);
+        }
+        if (generator.getOutstanding() > 0) {
+            System.out.printf("%d requests were still outstanding when the run stopped waiting (counted as offered, not served)%n",
+                    generator.getOutstanding());
+        }
+
+        Files.createDirectories(REPORT_DIR);
+        for (EndpointStats endpointStats : generator.getStats().values()) {
+            Path file = REPORT_DIR.resolve(endpointStats.getOperation().getKey() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                endpointStats.printServedDistribution(out);
+            }
+            if (endpointStats.hasUnsuccessful()) {
+                Path rejectedFile = REPORT_DIR.resolve(endpointStats.getOperation().getKey() + "-rejected.hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(rejectedFile))) {
+                    endpointStats.printUnsuccessfulDistribution(out);
+                }
+            }
+        }
+        System.out.println("Latency distributions written to " + REPORT_DIR.toAbsolutePath());
+    }
+}
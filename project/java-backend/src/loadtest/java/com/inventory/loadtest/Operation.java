@@ -0,0 +1,36 @@
+package com.inventory.loadtest;
+
+/**
+ * Request types replayed by the harness. The key is used in the
+ * {@code loadtest.mix} property, e.g. {@code scan=60,stock=15,search=10}.
+ */
+public enum Operation {
+
+    SCAN_BARCODE("scan", "GET /api/products/barcode/{barcode}"),
+    SCAN_SKU("sku", "GET /api/products/sku/{sku}"),
+    STOCK_UPDATE("stock", "PUT /api/products/{id}/stock"),
+    SEARCH("search", "GET /api/products/search"),
+    STATS("stats", "GET /api/products/stats"),
+    LOW_STOCK("lowstock", "GET /api/products/low-stock"),
+    LIST_ALL("list", "GET /api/products");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    public String getKey() { return key; }
+    public String getEndpoint() { return endpoint; }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "' in load-test mix");
+    }
+}
@@ -0,0 +1,122 @@
+package com.inventory.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency-based concurrency limit for a single lane.
+ *
+ * The limit follows a gradient: a slow-moving baseline latency is compared with
+ * a fast-moving recent latency. While recent latency stays near the baseline the
+ * limit grows by a queue allowance of sqrt(limit) (at most limit/4); once requests start queueing on the
+ * connection pool the recent latency rises, the gradient drops below one and the
+ * limit shrinks proportionally. Requests above the limit are rejected instead of
+ * waiting, so overload turns into fast 429s rather than pool timeouts.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // Weight of a new sample in the short (recent) latency average
+    private static final double SHORT_RTT_WEIGHT = 0.2;
+
+    // Weights of a new sample in the long (baseline) latency average. The baseline
+    // falls quickly but rises slowly so sustained overload is not mistaken for normal
+    private static final double LONG_RTT_RISE_WEIGHT = 0.001;
+    private static final double LONG_RTT_FALL_WEIGHT = 0.05;
+
+    // How much of a newly computed limit is applied per sample
+    private static final double SMOOTHING = 0.2;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    // Read without locking by tryAcquire
+    private volatile int limit;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limit bounds for lane '" + name + "': " + minLimit + ".." + maxLimit);
+        }
+        if (tolerance < 1.0) {
+            throw new IllegalArgumentException("Latency tolerance for lane '" + name + "' must be at least 1.0");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    // Try to take a slot; returns false when the lane is at its current limit
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                admitted.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // Return a slot and feed the observed latency into the limit
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            onSample(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+
+        shortRttNanos += SHORT_RTT_WEIGHT * (rttNanos - shortRttNanos);
+        double longWeight = rttNanos > longRttNanos ? LONG_RTT_RISE_WEIGHT : LONG_RTT_FALL_WEIGHT;
+        longRttNanos += longWeight * (rttNanos - longRttNanos);
+
+        // Let the baseline recover quickly after a sustained latency spike ends
+        if (longRttNanos > 2 * shortRttNanos) {
+            longRttNanos = 2 * shortRttNanos;
+        }
+
+        // Samples from a mostly idle lane say nothing about where the limit should be
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        // Capping the queue allowance at limit/4 keeps small limits able to shrink to minLimit;
+        // a plain sqrt(limit) term would hold the limit at 4 even at the lowest gradient
+        double queueAllowance = Math.min(Math.sqrt(estimatedLimit), estimatedLimit / 4);
+        double newLimit = estimatedLimit * gradient + queueAllowance;
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public int getLimit() { return limit; }
+    public int getInFlight() { return inFlight.get(); }
+    public long getAdmitted() { return admitted.get(); }
+    public long getRejected() { return rejected.get(); }
+}
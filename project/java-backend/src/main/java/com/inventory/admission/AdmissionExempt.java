@@ -0,0 +1,19 @@
+package com.inventory.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bypasses admission control for handlers that are served from memory and hold no
+ * database connection. Their microsecond latencies would otherwise drag a lane's
+ * latency baseline down and make it shed database-bound requests while the pool
+ * still has connections free.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface AdmissionExempt {
+}
@@ -0,0 +1,77 @@
+package com.inventory.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits or sheds each API request according to its handler's {@link AdmissionLane}.
+ * Handlers marked {@link AdmissionExempt} are always let through.
+ * Shed requests get 429 Too Many Requests with a Retry-After header before any
+ * database work is done.
+ */
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionInterceptor.class);
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    private final AdmissionLimiters admissionLimiters;
+
+    public AdmissionInterceptor(AdmissionLimiters admissionLimiters) {
+        this.admissionLimiters = admissionLimiters;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!admissionLimiters.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)
+                || isExempt(handlerMethod)) {
+            return true;
+        }
+
+        Lane lane = resolveLane(handlerMethod);
+        AdaptiveConcurrencyLimiter limiter = admissionLimiters.getLimiter(lane);
+        if (!limiter.tryAcquire()) {
+            logger.debug("Shedding {} {} in {} lane (limit {})",
+                    request.getMethod(), request.getRequestURI(), limiter.getName(), limiter.getLimit());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(admissionLimiters.getRetryAfterSeconds(lane)));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Server is busy, please retry later\"}");
+            return false;
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof Permit admitted) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            admitted.limiter().release(System.nanoTime() - admitted.startNanos());
+        }
+    }
+
+    private boolean isExempt(HandlerMethod handlerMethod) {
+        return handlerMethod.hasMethodAnnotation(AdmissionExempt.class)
+                || handlerMethod.getBeanType().isAnnotationPresent(AdmissionExempt.class);
+    }
+
+    private Lane resolveLane(HandlerMethod handlerMethod) {
+        AdmissionLane annotation = handlerMethod.getMethodAnnotation(AdmissionLane.class);
+        if (annotation == null) {
+            annotation = handlerMethod.getBeanType().getAnnotation(AdmissionLane.class);
+        }
+        return annotation != null ? annotation.value() : Lane.STANDARD;
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {}
+}
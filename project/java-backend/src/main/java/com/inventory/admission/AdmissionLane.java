@@ -0,0 +1,19 @@
+package com.inventory.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a controller method (or every method of a controller) to an admission
+ * lane. Handlers without the annotation are admitted through {@link Lane#STANDARD}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface AdmissionLane {
+
+    Lane value();
+}
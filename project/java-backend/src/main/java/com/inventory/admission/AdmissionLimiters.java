@@ -0,0 +1,84 @@
+package com.inventory.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Owns one {@link AdaptiveConcurrencyLimiter} per {@link Lane} and publishes
+ * their state as metrics (admission.limit, admission.inflight, admission.requests).
+ *
+ * At startup the lane bounds are checked against the connection pool: the heavy
+ * lane at its ceiling plus the standard lane at its floor must still leave the
+ * critical lane's floor worth of connections, otherwise heavy traffic could
+ * starve scanner lookups however far the limits shrink.
+ */
+@Component
+public class AdmissionLimiters implements MeterBinder {
+
+    private final AdmissionProperties properties;
+    private final Map<Lane, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(Lane.class);
+
+    public AdmissionLimiters(AdmissionProperties properties,
+                               @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.properties = properties;
+        validateAgainstPool(properties, poolSize);
+        for (Lane lane : Lane.values()) {
+            AdmissionProperties.LaneSettings settings = properties.getLane(lane);
+            limiters.put(lane, new AdaptiveConcurrencyLimiter(
+                    lane.name().toLowerCase(),
+                    settings.getInitialLimit(),
+                    settings.getMinLimit(),
+                    settings.getMaxLimit(),
+                    settings.getLatencyTolerance()));
+        }
+    }
+
+    private static void validateAgainstPool(AdmissionProperties properties, int poolSize) {
+        int required = properties.getCritical().getMinLimit()
+                + properties.getStandard().getMinLimit()
+                + properties.getHeavy().getMaxLimit();
+        if (required > poolSize) {
+            throw new IllegalStateException("Admission lanes need " + required + " connections " +
+                    "(critical.min-limit + standard.min-limit + heavy.max-limit) but the pool has " + poolSize);
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter(Lane lane) {
+        return limiters.get(lane);
+    }
+
+    public int getRetryAfterSeconds(Lane lane) {
+        return properties.getLane(lane).getRetryAfterSeconds();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AdaptiveConcurrencyLimiter limiter : limiters.values()) {
+            Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                 .tag("lane", limiter.getName())
+                 .register(registry);
+            Gauge.builder("admission.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                 .tag("lane", limiter.getName())
+                 .register(registry);
+            FunctionCounter.builder("admission.requests", limiter, AdaptiveConcurrencyLimiter::getAdmitted)
+                 .tag("lane", limiter.getName())
+                 .tag("outcome", "admitted")
+                 .register(registry);
+            FunctionCounter.builder("admission.requests", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                 .tag("lane", limiter.getName())
+                 .tag("outcome", "rejected")
+                 .register(registry);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.inventory.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "inventory.admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    private final LaneSettings critical = new LaneSettings(16, 4, 64, 2.0, 1);
+
+    private final LaneSettings standard = new LaneSettings(8, 2, 16, 1.5, 1);
+
+    private final LaneSettings heavy = new LaneSettings(4, 1, 4, 1.5, 2);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public LaneSettings getCritical() { return critical; }
+    public LaneSettings getStandard() { return standard; }
+    public LaneSettings getHeavy() { return heavy; }
+
+    public LaneSettings getLane(Lane lane) {
+        return switch (lane) {
+            case CRITICAL -> critical;
+            case STANDARD -> standard;
+            case HEAVY -> heavy;
+        };
+    }
+
+    // Per-lane limiter settings
+    public static class LaneSettings {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        private double latencyTolerance;
+        private int retryAfterSeconds;
+
+        public LaneSettings() {}
+
+        public LaneSettings(int initialLimit, int minLimit, int maxLimit,
+                            double latencyTolerance, int retryAfterSeconds) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyTolerance = latencyTolerance;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public int getInitialLimit() { return initialLimit; }
+        public void setInitialLimit(int initialLimit) { this.initialLimit = initialLimit; }
+        public int getMinLimit() { return minLimit; }
+        public void setMinLimit(int minLimit) { this.minLimit = minLimit; }
+        public int getMaxLimit() { return maxLimit; }
+        public void setMaxLimit(int maxLimit) { this.maxLimit = maxLimit; }
+        public double getLatencyTolerance() { return latencyTolerance; }
+        public void setLatencyTolerance(double latencyTolerance) { this.latencyTolerance = latencyTolerance; }
+        public int getRetryAfterSeconds() { return retryAfterSeconds; }
+        public void setRetryAfterSeconds(int retryAfterSeconds) { this.retryAfterSeconds = retryAfterSeconds; }
+    }
+}
@@ -0,0 +1,18 @@
+package com.inventory.admission;
+
+/**
+ * Priority lanes used by admission control. Each lane has its own adaptive
+ * concurrency limit so heavy traffic can never consume the capacity reserved
+ * for scanner lookups and stock updates.
+ */
+public enum Lane {
+
+    // Scanner lookups and stock updates - small indexed queries on the hot path
+    CRITICAL,
+
+    // Single-product writes and narrow filtered reads
+    STANDARD,
+
+    // Full table scans and aggregates - first to be shed under overload
+    HEAVY
+}
@@ -0,0 +1,141 @@
+package com.inventory.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution of expensive reads.
+ *
+ * Concurrent calls with the same key share one execution of the loader: the
+ * first caller runs it and every caller that arrives while it is running waits
+ * for the same result. A completed result may also be reused for a short
+ * freshness window, so a burst of dashboard polls costs one database round trip.
+ * Results are shared between callers and must not be modified.
+ *
+ * {@link #invalidate()} starts a new generation. A flight is only shared within
+ * the generation it started in, so a query that began before a write committed
+ * is neither joined nor reused by callers that arrive after it.
+ *
+ * Outcomes are counted in the coalescing.calls metric, tagged with the key and
+ * one of executed, coalesced (joined an in-flight call) or fresh (reused a
+ * recent result).
+ */
+@Component
+public class RequestCoalescer {
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long freshnessNanos;
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(@Value("${inventory.coalescing.freshness:0ms}") Duration freshness,
+                            MeterRegistry meterRegistry) {
+        this.freshnessNanos = freshness.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        Flight candidate = new Flight(generation.get());
+        Flight flight = flights.compute(key, (k, existing) ->
+                existing != null && existing.isReusable(freshnessNanos, generation.get()) ? existing : candidate);
+
+        if (flight != candidate) {
+            counter(key, flight.future.isDone() ? "fresh" : "coalesced").increment();
+            return (T) await(flight);
+        }
+
+        counter(key, "executed").increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            if (freshnessNanos == 0) {
+                flights.remove(key, flight);
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Make every current result stale, finished or still running, so the next call reads current data.
+    // Inside a transaction this waits for the commit so a reader cannot re-cache the old rows
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow();
+                }
+            });
+        } else {
+            invalidateNow();
+        }
+    }
+
+    private void invalidateNow() {
+        generation.incrementAndGet();
+        flights.values().removeIf(flight -> flight.future.isDone());
+    }
+
+    private Object await(Flight flight) {
+        try {
+            return flight.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String key, String outcome) {
+        return Counter.builder("coalescing.calls")
+                .tag("key", key)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static class Flight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final long generation;
+        private volatile long completedAtNanos;
+
+        Flight(long generation) {
+            this.generation = generation;
+        }
+
+        void complete(Object result) {
+            completedAtNanos = System.nanoTime();
+            future.complete(result);
+        }
+
+        boolean isReusable(long freshnessNanos, long currentGeneration) {
+            if (generation != currentGeneration) {
+                return false;
+            }
+            if (!future.isDone()) {
+                return true;
+            }
+            return !future.isCompletedExceptionally() && System.nanoTime() - completedAtNanos < freshnessNanos;
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package com.inventory.config;
 
+import com.inventory.admission.AdmissionLimiters;
+import com.inventory.admission.AdmissionInterceptor;
+import com.inventory.admission.AdmissionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
+    private final AdmissionLimiters admissionLimiters;
+
+    public WebConfig(AdmissionLimiters admissionLimiters) {
+        this.admissionLimiters = admissionLimiters;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -16,4 +28,10 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionInterceptor(admissionLimiters))
+                .addPathPatterns("/api/**");
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.inventory.controller;
 
+import com.inventory.admission.AdmissionLane;
+import com.inventory.admission.Lane;
 import com.inventory.model.Product;
 import com.inventory.service.ProductService;
 import jakarta.validation.Valid;
@@ -23,6 +25,7 @@ public class ProductController {
     private ProductService productService;
     
     // Get all products
+    @AdmissionLane(Lane.HEAVY)
     @GetMapping
     public ResponseEntity<List<Product>> getAllProducts() {
         try {
@@ -34,6 +37,7 @@ public class ProductController {
     }
     
     // Get product by ID
+    @AdmissionLane(Lane.CRITICAL)
     @GetMapping("/{id}")
     public ResponseEntity<Product> getProductById(@PathVariable Long id) {
         try {
@@ -46,6 +50,7 @@ public class ProductController {
     }
     
     // Get product by SKU
+    @AdmissionLane(Lane.CRITICAL)
     @GetMapping("/sku/{sku}")
     public ResponseEntity<Product> getProductBySku(@PathVariable String sku) {
         try {
@@ -58,6 +63,7 @@ public class ProductController {
     }
     
     // Get product by barcode
+    @AdmissionLane(Lane.CRITICAL)
     @GetMapping("/barcode/{barcode}")
     public ResponseEntity<Product> getProductByBarcode(@PathVariable String barcode) {
         try {
@@ -115,6 +121,7 @@ public class ProductController {
     }
     
     // Update stock quantity
+    @AdmissionLane(Lane.CRITICAL)
     @PutMapping("/{id}/stock")
     public ResponseEntity<?> updateStock(@PathVariable Long id, @RequestBody UpdateStockRequest request) {
         try {
@@ -129,6 +136,7 @@ public class ProductController {
     }
     
     // Search products
+    @AdmissionLane(Lane.HEAVY)
     @GetMapping("/search")
     public ResponseEntity<List<Product>> searchProducts(@RequestParam String q) {
         try {
@@ -162,6 +170,7 @@ public class ProductController {
     }
     
     // Get low stock products
+    @AdmissionLane(Lane.HEAVY)
     @GetMapping("/low-stock")
     public ResponseEntity<List<Product>> getLowStockProducts() {
         try {
@@ -173,6 +182,7 @@ public class ProductController {
     }
     
     // Get out of stock products
+    @AdmissionLane(Lane.HEAVY)
     @GetMapping("/out-of-stock")
     public ResponseEntity<List<Product>> getOutOfStockProducts() {
         try {
@@ -196,6 +206,7 @@ public class ProductController {
     }
     
     // Get inventory statistics
+    @AdmissionLane(Lane.HEAVY)
     @GetMapping("/stats")
     public ResponseEntity<ProductService.InventoryStats> getInventoryStats() {
         try {
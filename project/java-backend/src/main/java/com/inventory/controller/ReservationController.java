@@ -0,0 +1,119 @@
+package com.inventory.controller;
+
+import com.inventory.admission.AdmissionExempt;
+import com.inventory.admission.AdmissionLane;
+import com.inventory.admission.Lane;
+import com.inventory.controller.ProductController.ErrorResponse;
+import com.inventory.model.StockReservation;
+import com.inventory.service.ReservationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/reservations")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class ReservationController {
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    // Create a stock hold
+    @AdmissionExempt
+    @PostMapping
+    public ResponseEntity<?> createReservation(@RequestBody CreateReservationRequest request) {
+        try {
+            StockReservation reservation = reservationService.createReservation(
+                    request.getProductId(), request.getQuantity(), request.getTtlSeconds());
+            return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        } catch (RuntimeException e) {
+            if (e.getMessage() != null && e.getMessage().contains("not found")) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                 .body(new ErrorResponse("Internal server error"));
+        }
+    }
+    
+    // Get reservation by ID
+    @GetMapping("/{id}")
+    public ResponseEntity<StockReservation> getReservation(@PathVariable String id) {
+        try {
+            Optional<StockReservation> reservation = reservationService.getReservation(id);
+            return reservation.map(ResponseEntity::ok)
+                              .orElse(ResponseEntity.notFound().build());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // Confirm a hold, taking the stock out of inventory
+    @AdmissionLane(Lane.CRITICAL)
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<?> confirmReservation(@PathVariable String id) {
+        try {
+            return ResponseEntity.ok(reservationService.confirmReservation(id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        } catch (RuntimeException e) {
+            if (e.getMessage() != null && e.getMessage().contains("not found")) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                 .body(new ErrorResponse("Internal server error"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                 .body(new ErrorResponse("Internal server error"));
+        }
+    }
+    
+    // Release a hold, returning the stock to available
+    @AdmissionExempt
+    @PostMapping("/{id}/release")
+    public ResponseEntity<?> releaseReservation(@PathVariable String id) {
+        try {
+            return ResponseEntity.ok(reservationService.releaseReservation(id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse(e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                 .body(new ErrorResponse("Internal server error"));
+        }
+    }
+    
+    // Get available-to-promise for a product
+    @AdmissionExempt
+    @GetMapping("/availability/{productId}")
+    public ResponseEntity<ReservationService.Availability> getAvailability(@PathVariable Long productId) {
+        try {
+            return ResponseEntity.ok(reservationService.getAvailability(productId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    // Inner classes for request objects
+    public static class CreateReservationRequest {
+        private Long productId;
+        private Integer quantity;
+        private Long ttlSeconds;
+        
+        public Long getProductId() { return productId; }
+        public void setProductId(Long productId) { this.productId = productId; }
+        public Integer getQuantity() { return quantity; }
+        public void setQuantity(Integer quantity) { this.quantity = quantity; }
+        public Long getTtlSeconds() { return ttlSeconds; }
+        public void setTtlSeconds(Long ttlSeconds) { this.ttlSeconds = ttlSeconds; }
+    }
+}
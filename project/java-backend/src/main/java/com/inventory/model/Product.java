@@ -1,5 +1,6 @@
 package com.inventory.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
@@ -53,6 +54,12 @@ public class Product {
     @Column(name = "min_stock_level", nullable = false)
     private Integer minStockLevel;
     
+    // Units held by open reservations. Maintained in memory by ReservationService and
+    // written back asynchronously, so entity saves must never overwrite it
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "reserved_quantity", nullable = false, updatable = false)
+    private Integer reservedQuantity = 0;
+    
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -159,6 +166,14 @@ public class Product {
         this.minStockLevel = minStockLevel;
     }
     
+    public Integer getReservedQuantity() {
+        return reservedQuantity;
+    }
+    
+    public void setReservedQuantity(Integer reservedQuantity) {
+        this.reservedQuantity = reservedQuantity;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -184,6 +199,10 @@ public class Product {
         return quantity == 0;
     }
     
+    public int getAvailableQuantity() {
+        return quantity - reservedQuantity;
+    }
+    
     public BigDecimal getTotalValue() {
         return price.multiply(BigDecimal.valueOf(quantity));
     }
@@ -200,6 +219,7 @@ public class Product {
                 ", supplier='" + supplier + '\'' +
                 ", barcode='" + barcode + '\'' +
                 ", minStockLevel=" + minStockLevel +
+                ", reservedQuantity=" + reservedQuantity +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
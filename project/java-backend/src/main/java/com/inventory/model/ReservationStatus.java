@@ -0,0 +1,14 @@
+package com.inventory.model;
+
+public enum ReservationStatus {
+    HELD,
+    // The stock decrement behind a confirm is in progress; ends as CONFIRMED or RELEASED
+    CONFIRMING,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED;
+
+    public boolean isTerminal() {
+        return this != HELD && this != CONFIRMING;
+    }
+}
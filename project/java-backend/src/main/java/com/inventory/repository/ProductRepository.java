@@ -2,10 +2,13 @@ package com.inventory.repository;
 
 import com.inventory.model.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -61,4 +64,27 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // Check if barcode exists (excluding current product ID for updates)
     @Query("SELECT COUNT(p) > 0 FROM Product p WHERE p.barcode = :barcode AND p.id != :id")
     boolean existsByBarcodeAndIdNot(@Param("barcode") String barcode, @Param("id") Long id);
+    
+    // Read the committed on-hand quantity without loading the entity
+    @Query("SELECT p.quantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findQuantityById(@Param("id") Long id);
+    
+    // Atomically take confirmed units out of stock; returns 0 if there was not enough
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET p.quantity = p.quantity - :quantity, p.updatedAt = :now " +
+           "WHERE p.id = :id AND p.quantity >= :quantity")
+    int decrementQuantity(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+    
+    // Write back the reserved quantity tracked in memory
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET p.reservedQuantity = :reservedQuantity WHERE p.id = :id")
+    int updateReservedQuantity(@Param("id") Long id, @Param("reservedQuantity") int reservedQuantity);
+    
+    // Clear reserved quantities before active holds are rebuilt on startup
+    @Modifying
+    @Transactional
+    @Query("UPDATE Product p SET p.reservedQuantity = 0 WHERE p.reservedQuantity <> 0")
+    int resetReservedQuantities();
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.inventory.repository;
+
+import com.inventory.model.ReservationStatus;
+import com.inventory.model.StockReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, String> {
+    
+    // Find reservations by status (used to rebuild active holds on startup)
+    List<StockReservation> findByStatus(ReservationStatus status);
+}
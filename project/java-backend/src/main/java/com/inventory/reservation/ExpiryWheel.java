@@ -0,0 +1,74 @@
+package com.inventory.reservation;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for hold expiry.
+ *
+ * Deadlines are rounded up to a tick and hashed into a fixed ring of buckets, so
+ * scheduling is an O(1) append and each tick only scans one bucket. Deadlines
+ * further out than one revolution simply stay in their bucket until a later pass.
+ * Entries are never cancelled; the expiry callback is expected to ignore items
+ * that were already confirmed or released. Schedule a small key such as an id
+ * rather than the object itself, so a finished item is not kept reachable until
+ * its deadline comes round.
+ */
+public class ExpiryWheel<T> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Entry<T>>[] buckets;
+    private final Consumer<T> onExpire;
+
+    // Last tick whose bucket has been processed; only written by advance()
+    private volatile long processedTick;
+
+    @SuppressWarnings("unchecked")
+    public ExpiryWheel(long tickMillis, int bucketCount, Consumer<T> onExpire, long nowMillis) {
+        if (tickMillis < 1 || Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("Expiry wheel needs a positive tick and a power-of-two bucket count");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = bucketCount - 1;
+        this.buckets = new Queue[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.onExpire = onExpire;
+        this.processedTick = nowMillis / tickMillis;
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        long deadlineTick = (deadlineMillis + tickMillis - 1) / tickMillis;
+        long bucketTick = Math.max(deadlineTick, processedTick + 1);
+        buckets[(int) (bucketTick & mask)].add(new Entry<>(item, deadlineTick));
+    }
+
+    // Process every bucket passed since the last call; returns the number of items expired
+    public synchronized int advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        long ticks = Math.min(nowTick - processedTick, buckets.length);
+        int expired = 0;
+
+        for (long i = 1; i <= ticks; i++) {
+            Iterator<Entry<T>> iterator = buckets[(int) ((processedTick + i) & mask)].iterator();
+            while (iterator.hasNext()) {
+                Entry<T> entry = iterator.next();
+                if (entry.deadlineTick() <= nowTick) {
+                    iterator.remove();
+                    onExpire.accept(entry.item());
+                    expired++;
+                }
+            }
+        }
+        if (nowTick > processedTick) {
+            processedTick = nowTick;
+        }
+        return expired;
+    }
+
+    private record Entry<T>(T item, long deadlineTick) {}
+}
@@ -0,0 +1,107 @@
+package com.inventory.reservation;
+
+import com.inventory.model.ReservationStatus;
+import com.inventory.model.StockReservation;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory state of a reservation. The status only ever moves out of HELD once,
+ * via compare-and-set, so confirm, release and expiry can race safely. A confirm
+ * parks the hold in CONFIRMING while its stock decrement runs, so neither release
+ * nor expiry can take it and it is not forgotten before the outcome is known.
+ */
+public class Hold {
+
+    private final String id;
+    private final Long productId;
+    private final int quantity;
+    private final LocalDateTime createdAt;
+    private final long expiresAtMillis;
+    private final AtomicReference<ReservationStatus> status;
+    private volatile LocalDateTime updatedAt;
+
+    // Set once the hold's row exists, so later flushes update instead of insert
+    private volatile boolean persisted;
+
+    public Hold(String id, Long productId, int quantity, LocalDateTime createdAt, long expiresAtMillis,
+                ReservationStatus status, boolean persisted) {
+        this.id = id;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.createdAt = createdAt;
+        this.expiresAtMillis = expiresAtMillis;
+        this.status = new AtomicReference<>(status);
+        this.updatedAt = createdAt;
+        this.persisted = persisted;
+    }
+
+    public static Hold fromEntity(StockReservation reservation) {
+        return new Hold(
+                reservation.getId(),
+                reservation.getProductId(),
+                reservation.getQuantity(),
+                reservation.getCreatedAt(),
+                reservation.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                reservation.getStatus(),
+                true);
+    }
+
+    // Move from HELD to the given terminal status; false if another transition won
+    public boolean finish(ReservationStatus terminalStatus) {
+        if (status.compareAndSet(ReservationStatus.HELD, terminalStatus)) {
+            updatedAt = LocalDateTime.now();
+            return true;
+        }
+        return false;
+    }
+
+    // Claim the hold for a confirm; false if it is no longer HELD
+    public boolean beginConfirmation() {
+        if (status.compareAndSet(ReservationStatus.HELD, ReservationStatus.CONFIRMING)) {
+            updatedAt = LocalDateTime.now();
+            return true;
+        }
+        return false;
+    }
+
+    // The stock decrement behind a confirmation succeeded
+    public void completeConfirmation() {
+        if (status.compareAndSet(ReservationStatus.CONFIRMING, ReservationStatus.CONFIRMED)) {
+            updatedAt = LocalDateTime.now();
+        }
+    }
+
+    // The stock decrement behind a confirmation failed; the hold ends up released instead
+    public void failConfirmation() {
+        if (status.compareAndSet(ReservationStatus.CONFIRMING, ReservationStatus.RELEASED)) {
+            updatedAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    public StockReservation toEntity() {
+        StockReservation reservation = new StockReservation(id, productId, quantity, status.get(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault()),
+                createdAt, updatedAt);
+        reservation.setNew(!persisted);
+        return reservation;
+    }
+
+    public void markPersisted() {
+        persisted = true;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public Long getProductId() { return productId; }
+    public int getQuantity() { return quantity; }
+    public long getExpiresAtMillis() { return expiresAtMillis; }
+    public ReservationStatus getStatus() { return status.get(); }
+}
@@ -0,0 +1,73 @@
+package com.inventory.reservation;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free on-hand and reserved counts for one product.
+ *
+ * Both values are packed into a single AtomicLong (on-hand in the high 32 bits,
+ * reserved in the low 32 bits) so a reservation can check available-to-promise
+ * and take its units in one compare-and-set, without a database row lock.
+ *
+ * Reserved is only ever moved by deltas. On-hand is only ever set to a value read
+ * back from the database, so the order in which stock edits and confirms land in
+ * memory cannot drift it away from the row.
+ */
+public class StockCounter {
+
+    private final AtomicLong state;
+
+    public StockCounter(int onHand, int reserved) {
+        this.state = new AtomicLong(pack(onHand, reserved));
+    }
+
+    // Reserve units if enough are available; returns false without changing anything otherwise
+    public boolean tryReserve(int quantity) {
+        while (true) {
+            long current = state.get();
+            int onHand = onHand(current);
+            int reserved = reserved(current);
+            if (onHand - reserved < quantity) {
+                return false;
+            }
+            if (state.compareAndSet(current, pack(onHand, reserved + quantity))) {
+                return true;
+            }
+        }
+    }
+
+    // Give reserved units back without touching on-hand stock
+    public void release(int quantity) {
+        state.updateAndGet(current -> pack(onHand(current), reserved(current) - quantity));
+    }
+
+    // On-hand stock as last read from the database
+    public void setOnHand(int onHand) {
+        state.updateAndGet(current -> pack(onHand, reserved(current)));
+    }
+
+    public int getOnHand() {
+        return onHand(state.get());
+    }
+
+    public int getReserved() {
+        return reserved(state.get());
+    }
+
+    public int getAvailable() {
+        long current = state.get();
+        return onHand(current) - reserved(current);
+    }
+
+    private static long pack(int onHand, int reserved) {
+        return ((long) onHand << 32) | (reserved & 0xFFFFFFFFL);
+    }
+
+    private static int onHand(long state) {
+        return (int) (state >>> 32);
+    }
+
+    private static int reserved(long state) {
+        return (int) state;
+    }
+}
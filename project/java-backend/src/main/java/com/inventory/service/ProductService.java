@@ -1,14 +1,19 @@
 package com.inventory.service;
 
+import com.inventory.coalescing.RequestCoalescer;
 import com.inventory.model.Product;
 import com.inventory.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
@@ -17,6 +22,15 @@ public class ProductService {
     @Autowired
     private ProductRepository productRepository;
     
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+    
+    @Autowired
+    private ReservationService reservationService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
     // Get all products
     public List<Product> getAllProducts() {
         return productRepository.findAll();
@@ -51,7 +65,9 @@ public class ProductService {
             }
         }
         
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        requestCoalescer.invalidate();
+        return savedProduct;
     }
     
     // Update existing product
@@ -85,7 +101,10 @@ public class ProductService {
         existingProduct.setBarcode(productDetails.getBarcode());
         existingProduct.setMinStockLevel(productDetails.getMinStockLevel());
         
-        return productRepository.save(existingProduct);
+        Product savedProduct = productRepository.save(existingProduct);
+        reservationService.onStockChanged(id);
+        requestCoalescer.invalidate();
+        return savedProduct;
     }
     
     // Delete product
@@ -94,6 +113,8 @@ public class ProductService {
             throw new RuntimeException("Product not found with ID: " + id);
         }
         productRepository.deleteById(id);
+        reservationService.onProductDeleted(id);
+        requestCoalescer.invalidate();
     }
     
     // Update stock quantity
@@ -105,7 +126,10 @@ public class ProductService {
         
         Product product = optionalProduct.get();
         product.setQuantity(newQuantity);
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        reservationService.onStockChanged(id);
+        requestCoalescer.invalidate();
+        return savedProduct;
     }
     
     // Search products
@@ -123,14 +147,18 @@ public class ProductService {
         return productRepository.findBySupplier(supplier);
     }
     
-    // Get low stock products
+    // Get low stock products (concurrent callers share one query)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Product> getLowStockProducts() {
-        return productRepository.findLowStockProducts();
+        return requestCoalescer.execute("low-stock",
+                () -> inReadOnlyTransaction(() -> List.copyOf(productRepository.findLowStockProducts())));
     }
     
-    // Get out of stock products
+    // Get out of stock products (concurrent callers share one query)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Product> getOutOfStockProducts() {
-        return productRepository.findOutOfStockProducts();
+        return requestCoalescer.execute("out-of-stock",
+                () -> inReadOnlyTransaction(() -> List.copyOf(productRepository.findOutOfStockProducts())));
     }
     
     // Get products by price range
@@ -143,8 +171,21 @@ public class ProductService {
         return productRepository.getTotalInventoryValue();
     }
     
-    // Get inventory statistics
+    // Get inventory statistics (concurrent callers share one computation)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public InventoryStats getInventoryStats() {
+        return requestCoalescer.execute("stats", () -> inReadOnlyTransaction(this::computeInventoryStats));
+    }
+    
+    // Coalesced reads run outside the class-level transaction so waiters never hold a pool
+    // connection; only the caller that actually runs the query opens one
+    private <T> T inReadOnlyTransaction(Supplier<T> query) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> query.get());
+    }
+    
+    private InventoryStats computeInventoryStats() {
         List<Product> allProducts = productRepository.findAll();
         List<Product> lowStockProducts = productRepository.findLowStockProducts();
         List<Product> outOfStockProducts = productRepository.findOutOfStockProducts();
@@ -0,0 +1,465 @@
+package com.inventory.service;
+
+import com.inventory.coalescing.RequestCoalescer;
+import com.inventory.model.Product;
+import com.inventory.model.ReservationStatus;
+import com.inventory.model.StockReservation;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.StockReservationRepository;
+import com.inventory.reservation.ExpiryWheel;
+import com.inventory.reservation.Hold;
+import com.inventory.reservation.StockCounter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Stock reservations (soft allocations) with a TTL.
+ *
+ * Available-to-promise is tracked in memory by one lock-free {@link StockCounter}
+ * per product, so creating and releasing holds never touches a product row.
+ * Hold state and each product's reserved quantity are written back in batches by
+ * {@link #flush()}. Confirming a hold is the one synchronous write: a single
+ * conditional UPDATE takes the units out of {@code quantity}, and the hold's row
+ * is written as CONFIRMED in the same transaction, so a confirm is never lost or
+ * replayed after a restart. The in-memory on-hand count is only ever refreshed
+ * from the product row, never adjusted by deltas. Abandoned holds are freed by an
+ * {@link ExpiryWheel} rather than a timer per hold.
+ *
+ * Holds created, released or expired within the last flush interval are lost if
+ * the process dies; active holds are rebuilt from the database on startup.
+ */
+@Service
+public class ReservationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReservationService.class);
+
+    private static final long WHEEL_TICK_MILLIS = 1000;
+    private static final int WHEEL_BUCKETS = 512;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockReservationRepository reservationRepository;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${inventory.reservations.default-ttl:15m}")
+    private Duration defaultTtl;
+
+    @Value("${inventory.reservations.max-ttl:24h}")
+    private Duration maxTtl;
+
+    private final Map<Long, StockCounter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private final Set<String> dirtyHolds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyProducts = ConcurrentHashMap.newKeySet();
+
+    // Confirm transactions share the read side; flush takes the write side so a
+    // stale batch can never overwrite a row a confirm has just written
+    private final ReadWriteLock persistenceLock = new ReentrantReadWriteLock();
+    private final ExpiryWheel<String> expiryWheel =
+            new ExpiryWheel<>(WHEEL_TICK_MILLIS, WHEEL_BUCKETS, this::expireById, System.currentTimeMillis());
+
+    // Rebuild counters and the expiry wheel from holds that were active at shutdown
+    @PostConstruct
+    public void recoverActiveHolds() {
+        productRepository.resetReservedQuantities();
+
+        long now = System.currentTimeMillis();
+        Map<Long, List<Hold>> activeByProduct = new HashMap<>();
+        for (StockReservation reservation : reservationRepository.findByStatus(ReservationStatus.HELD)) {
+            Hold hold = Hold.fromEntity(reservation);
+            holds.put(hold.getId(), hold);
+            if (hold.isExpired(now)) {
+                hold.finish(ReservationStatus.EXPIRED);
+                dirtyHolds.add(hold.getId());
+            } else {
+                activeByProduct.computeIfAbsent(hold.getProductId(), id -> new ArrayList<>()).add(hold);
+            }
+        }
+
+        for (Map.Entry<Long, List<Hold>> entry : activeByProduct.entrySet()) {
+            Optional<Product> product = productRepository.findById(entry.getKey());
+            if (product.isEmpty()) {
+                for (Hold hold : entry.getValue()) {
+                    hold.finish(ReservationStatus.RELEASED);
+                    dirtyHolds.add(hold.getId());
+                }
+                continue;
+            }
+            int reserved = entry.getValue().stream().mapToInt(Hold::getQuantity).sum();
+            counters.put(entry.getKey(), new StockCounter(product.get().getQuantity(), reserved));
+            dirtyProducts.add(entry.getKey());
+            for (Hold hold : entry.getValue()) {
+                expiryWheel.schedule(hold.getId(), hold.getExpiresAtMillis());
+            }
+        }
+
+        flush();
+        logger.info("Recovered {} active stock reservations", activeByProduct.values().stream().mapToInt(List::size).sum());
+    }
+
+    // Create a hold on stock for a pending order
+    public StockReservation createReservation(Long productId, Integer quantity, Long ttlSeconds) {
+        if (productId == null) {
+            throw new RuntimeException("Product ID is required");
+        }
+        if (quantity == null || quantity <= 0) {
+            throw new RuntimeException("Quantity must be greater than 0");
+        }
+        Duration ttl = ttlSeconds == null ? defaultTtl : Duration.ofSeconds(ttlSeconds);
+        if (ttl.isNegative() || ttl.isZero() || ttl.compareTo(maxTtl) > 0) {
+            throw new RuntimeException("TTL must be between 1 and " + maxTtl.toSeconds() + " seconds");
+        }
+
+        StockCounter counter = counterFor(productId);
+        if (!counter.tryReserve(quantity)) {
+            throw new IllegalStateException("Insufficient stock for product " + productId +
+                    ": requested " + quantity + ", available " + Math.max(0, counter.getAvailable()));
+        }
+
+        Hold hold = new Hold(UUID.randomUUID().toString(), productId, quantity, LocalDateTime.now(),
+                System.currentTimeMillis() + ttl.toMillis(), ReservationStatus.HELD, false);
+        holds.put(hold.getId(), hold);
+        expiryWheel.schedule(hold.getId(), hold.getExpiresAtMillis());
+        markDirty(hold);
+        return hold.toEntity();
+    }
+
+    // Get reservation by ID
+    public Optional<StockReservation> getReservation(String id) {
+        Hold hold = holds.get(id);
+        if (hold != null) {
+            return Optional.of(hold.toEntity());
+        }
+        return reservationRepository.findById(id);
+    }
+
+    // Turn a hold into a real stock decrement
+    public StockReservation confirmReservation(String id) {
+        Hold hold = holds.get(id);
+        if (hold == null) {
+            return requirePersisted(id, ReservationStatus.CONFIRMED);
+        }
+        if (hold.getStatus() == ReservationStatus.HELD && hold.isExpired(System.currentTimeMillis())) {
+            expire(hold);
+        }
+        if (hold.getStatus() != ReservationStatus.HELD) {
+            return requireStatus(hold.toEntity(), ReservationStatus.CONFIRMED);
+        }
+        StockCounter counter = counterFor(hold.getProductId());
+        // CONFIRMING keeps release, expiry and flush away until the decrement's outcome is known
+        if (!hold.beginConfirmation()) {
+            return requireStatus(hold.toEntity(), ReservationStatus.CONFIRMED);
+        }
+
+        boolean decremented;
+        try {
+            decremented = persistConfirmation(hold);
+        } catch (RuntimeException e) {
+            abandonConfirmation(hold, counter);
+            throw e;
+        }
+        if (!decremented) {
+            // Stock was lowered underneath the hold; give the units back rather than oversell
+            abandonConfirmation(hold, counter);
+            throw new IllegalStateException("Insufficient stock to confirm reservation " + id + "; it has been released");
+        }
+
+        // Pick up the decremented on-hand before giving up the reservation, so the units are never counted as free
+        try {
+            refreshOnHand(hold.getProductId(), counter);
+        } catch (RuntimeException e) {
+            // The decrement is committed; the next stock edit or confirm refreshes on-hand again
+            logger.warn("Failed to refresh on-hand stock for product {} after confirming {}", hold.getProductId(), id, e);
+        }
+        counter.release(hold.getQuantity());
+        hold.completeConfirmation();
+        markDirty(hold);
+        requestCoalescer.invalidate();
+        return hold.toEntity();
+    }
+
+    // Give held stock back before the TTL runs out
+    public StockReservation releaseReservation(String id) {
+        Hold hold = holds.get(id);
+        if (hold == null) {
+            return requirePersisted(id, ReservationStatus.RELEASED);
+        }
+        if (hold.finish(ReservationStatus.RELEASED)) {
+            counterFor(hold.getProductId()).release(hold.getQuantity());
+            markDirty(hold);
+            return hold.toEntity();
+        }
+        // Releasing a hold that already expired is a no-op
+        if (hold.getStatus() == ReservationStatus.EXPIRED) {
+            return hold.toEntity();
+        }
+        return requireStatus(hold.toEntity(), ReservationStatus.RELEASED);
+    }
+
+    // Get live available-to-promise for a product
+    public Availability getAvailability(Long productId) {
+        StockCounter counter = counterFor(productId);
+        return new Availability(productId, counter.getOnHand(), counter.getReserved(), counter.getAvailable());
+    }
+
+    // Keep the in-memory on-hand count in step with direct stock edits
+    public void onStockChanged(Long productId) {
+        afterCommit(() -> {
+            StockCounter counter = counters.get(productId);
+            if (counter != null) {
+                refreshOnHand(productId, counter);
+            }
+        });
+    }
+
+    // Drop the counter and release open holds of a deleted product
+    public void onProductDeleted(Long productId) {
+        afterCommit(() -> {
+            counters.remove(productId);
+            for (Hold hold : holds.values()) {
+                if (hold.getProductId().equals(productId) && hold.finish(ReservationStatus.RELEASED)) {
+                    dirtyHolds.add(hold.getId());
+                }
+            }
+        });
+    }
+
+    // Free holds whose TTL has passed
+    @Scheduled(fixedRate = WHEEL_TICK_MILLIS)
+    public void expireHolds() {
+        int expired = expiryWheel.advance(System.currentTimeMillis());
+        if (expired > 0) {
+            logger.debug("Expiry wheel processed {} holds", expired);
+        }
+    }
+
+    // Write changed holds and reserved quantities back to the database
+    @Scheduled(fixedDelayString = "${inventory.reservations.flush-interval-ms:200}")
+    public void flush() {
+        persistenceLock.writeLock().lock();
+        try {
+            flushLocked();
+        } finally {
+            persistenceLock.writeLock().unlock();
+        }
+    }
+
+    private void flushLocked() {
+        List<Hold> changedHolds = new ArrayList<>();
+        for (Iterator<String> iterator = dirtyHolds.iterator(); iterator.hasNext(); ) {
+            Hold hold = holds.get(iterator.next());
+            iterator.remove();
+            // A confirm in progress marks the hold dirty again once it has an outcome
+            if (hold != null && hold.getStatus() != ReservationStatus.CONFIRMING) {
+                changedHolds.add(hold);
+            }
+        }
+        if (!changedHolds.isEmpty()) {
+            List<StockReservation> snapshots = changedHolds.stream().map(Hold::toEntity).toList();
+            try {
+                reservationRepository.saveAll(snapshots);
+            } catch (RuntimeException e) {
+                logger.error("Failed to persist {} stock reservations, will retry", snapshots.size(), e);
+                changedHolds.forEach(hold -> dirtyHolds.add(hold.getId()));
+                return;
+            }
+            for (int i = 0; i < changedHolds.size(); i++) {
+                Hold hold = changedHolds.get(i);
+                hold.markPersisted();
+                // Only forget a hold once its final status is the one on disk
+                if (snapshots.get(i).getStatus().isTerminal()) {
+                    holds.remove(hold.getId(), hold);
+                }
+            }
+        }
+
+        for (Iterator<Long> iterator = dirtyProducts.iterator(); iterator.hasNext(); ) {
+            Long productId = iterator.next();
+            iterator.remove();
+            StockCounter counter = counters.get(productId);
+            if (counter == null) {
+                continue;
+            }
+            try {
+                productRepository.updateReservedQuantity(productId, counter.getReserved());
+            } catch (RuntimeException e) {
+                logger.error("Failed to persist reserved quantity for product {}, will retry", productId, e);
+                dirtyProducts.add(productId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private StockCounter counterFor(Long productId) {
+        StockCounter counter = counters.get(productId);
+        if (counter != null) {
+            return counter;
+        }
+        // Active holds were loaded at startup, so a product without a counter has nothing reserved.
+        // Load outside the map so a slow query never blocks other products hashed to the same bin.
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new RuntimeException("Product not found with ID: " + productId));
+        StockCounter loaded = new StockCounter(product.getQuantity(), 0);
+        StockCounter existing = counters.putIfAbsent(productId, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        // A stock edit that committed while we were loading found no counter to refresh
+        if (!refreshOnHand(productId, loaded)) {
+            throw new RuntimeException("Product not found with ID: " + productId);
+        }
+        return loaded;
+    }
+
+    // Set on-hand from the committed row. Refreshes of one product are serialised, so
+    // each read sees at least what the previous one did and a stale value never lands last.
+    private boolean refreshOnHand(Long productId, StockCounter counter) {
+        synchronized (counter) {
+            Optional<Integer> quantity = productRepository.findQuantityById(productId);
+            if (quantity.isEmpty()) {
+                counters.remove(productId, counter);
+                return false;
+            }
+            counter.setOnHand(quantity.get());
+            return true;
+        }
+    }
+
+    private void expireById(String holdId) {
+        Hold hold = holds.get(holdId);
+        if (hold != null) {
+            expire(hold);
+        }
+    }
+
+    private void expire(Hold hold) {
+        if (hold.finish(ReservationStatus.EXPIRED)) {
+            StockCounter counter = counters.get(hold.getProductId());
+            if (counter != null) {
+                counter.release(hold.getQuantity());
+            }
+            markDirty(hold);
+        }
+    }
+
+    // Take the units out of stock and record the hold as CONFIRMED in one transaction
+    private boolean persistConfirmation(Hold hold) {
+        persistenceLock.readLock().lock();
+        try {
+            Boolean decremented = new TransactionTemplate(transactionManager).execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                if (productRepository.decrementQuantity(hold.getProductId(), hold.getQuantity(), now) == 0) {
+                    return false;
+                }
+                StockReservation confirmed = hold.toEntity();
+                confirmed.setStatus(ReservationStatus.CONFIRMED);
+                confirmed.setUpdatedAt(now);
+                reservationRepository.save(confirmed);
+                return true;
+            });
+            if (Boolean.TRUE.equals(decremented)) {
+                hold.markPersisted();
+                return true;
+            }
+            return false;
+        } finally {
+            persistenceLock.readLock().unlock();
+        }
+    }
+
+    private void abandonConfirmation(Hold hold, StockCounter counter) {
+        hold.failConfirmation();
+        counter.release(hold.getQuantity());
+        markDirty(hold);
+    }
+
+    private void markDirty(Hold hold) {
+        dirtyHolds.add(hold.getId());
+        dirtyProducts.add(hold.getProductId());
+    }
+
+    // Holds that already reached a final state and were flushed only live in the database
+    private StockReservation requirePersisted(String id, ReservationStatus expected) {
+        StockReservation reservation = reservationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Reservation not found with ID: " + id));
+        return requireStatus(reservation, expected);
+    }
+
+    // Repeating a confirm or release is fine; anything else is a conflict
+    private StockReservation requireStatus(StockReservation reservation, ReservationStatus expected) {
+        if (reservation.getStatus() != expected) {
+            throw new IllegalStateException("Reservation " + reservation.getId() + " is " +
+                    reservation.getStatus().name().toLowerCase());
+        }
+        return reservation;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Inner class for available-to-promise
+    public static class Availability {
+        private final Long productId;
+        private final int onHand;
+        private final int reserved;
+        private final int available;
+
+        public Availability(Long productId, int onHand, int reserved, int available) {
+            this.productId = productId;
+            this.onHand = onHand;
+            this.reserved = reserved;
+            this.available = available;
+        }
+
+        // Getters
+        public Long getProductId() { return productId; }
+        public int getOnHand() { return onHand; }
+        public int getReserved() { return reserved; }
+        public int getAvailable() { return available; }
+    }
+}
@@ -0,0 +1,110 @@
+package com.inventory.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    // Fill the lane to its limit and complete every request with the given latency
+    private static void runRounds(AdaptiveConcurrencyLimiter limiter, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int admitted = 0;
+            while (limiter.tryAcquire()) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+
+    @Test
+    void rejectsRequestsAboveTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 3, 1, 10, 1.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(3);
+        assertThat(limiter.getRejected()).isEqualTo(1);
+
+        limiter.release(FAST);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsToMaxWhileLatencyIsSteady() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 20, 1.5);
+
+        runRounds(limiter, 200, FAST);
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void shrinksToMinLimitWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 20, 1.5);
+        runRounds(limiter, 200, FAST);
+
+        runRounds(limiter, 200, SLOW);
+
+        // The floor must be reachable; a plain sqrt queue term used to pin it at 4
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void recoversAfterLatencyReturnsToNormal() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 20, 1.5);
+        runRounds(limiter, 200, FAST);
+        runRounds(limiter, 200, SLOW);
+
+        runRounds(limiter, 2000, FAST);
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void neverAdmitsMoreThanTheLimitUnderContention() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 5, 5, 5, 1.5);
+        AtomicInteger maxObserved = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    if (limiter.tryAcquire()) {
+                        maxObserved.accumulateAndGet(limiter.getInFlight(), Math::max);
+                        limiter.release(FAST);
+                    }
+                }
+                done.countDown();
+            });
+        }
+        done.await(30, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(5);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void rejectsInvalidBounds() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 1, 0, 10, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter("test", 1, 5, 4, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.inventory.admission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AdmissionInterceptorTest {
+
+    private final AtomicInteger handlerCalls = new AtomicInteger();
+    private AdmissionLimiters limiters;
+    private MockMvc mockMvc;
+
+    @RestController
+    class LaneController {
+
+        @GetMapping("/heavy")
+        @AdmissionLane(Lane.HEAVY)
+        public String heavy() {
+            handlerCalls.incrementAndGet();
+            return "ok";
+        }
+
+        @GetMapping("/in-memory")
+        @AdmissionExempt
+        public String inMemory() {
+            handlerCalls.incrementAndGet();
+            return "ok";
+        }
+
+        @GetMapping("/failing")
+        @AdmissionLane(Lane.CRITICAL)
+        public String failing() {
+            handlerCalls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        limiters = new AdmissionLimiters(new AdmissionProperties(), 10);
+        mockMvc = MockMvcBuilders.standaloneSetup(new LaneController())
+                .addInterceptors(new AdmissionInterceptor(limiters))
+                .build();
+    }
+
+    @Test
+    void admittedRequestReturnsItsPermit() throws Exception {
+        mockMvc.perform(get("/heavy")).andExpect(status().isOk());
+
+        assertThat(handlerCalls.get()).isEqualTo(1);
+        assertThat(limiters.getLimiter(Lane.HEAVY).getInFlight()).isZero();
+    }
+
+    @Test
+    void saturatedLaneShedsWithRetryAfterWithoutCallingTheHandler() throws Exception {
+        AdaptiveConcurrencyLimiter heavy = limiters.getLimiter(Lane.HEAVY);
+        int limit = heavy.getLimit();
+        for (int i = 0; i < limit; i++) {
+            assertThat(heavy.tryAcquire()).isTrue();
+        }
+
+        mockMvc.perform(get("/heavy"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"));
+
+        assertThat(handlerCalls.get()).isZero();
+        assertThat(heavy.getInFlight()).isEqualTo(limit);
+        assertThat(heavy.getRejected()).isEqualTo(1);
+        // Other lanes are unaffected by a full heavy lane
+        assertThat(limiters.getLimiter(Lane.CRITICAL).getInFlight()).isZero();
+    }
+
+    @Test
+    void permitIsReturnedWhenTheHandlerThrows() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/failing")))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(handlerCalls.get()).isEqualTo(1);
+        assertThat(limiters.getLimiter(Lane.CRITICAL).getInFlight()).isZero();
+        assertThat(limiters.getLimiter(Lane.CRITICAL).getAdmitted()).isEqualTo(1);
+    }
+
+    @Test
+    void exemptHandlerBypassesEveryLane() throws Exception {
+        for (Lane lane : Lane.values()) {
+            AdaptiveConcurrencyLimiter limiter = limiters.getLimiter(lane);
+            while (limiter.tryAcquire()) {
+                // Saturate the lane
+            }
+        }
+
+        mockMvc.perform(get("/in-memory")).andExpect(status().isOk());
+
+        assertThat(handlerCalls.get()).isEqualTo(1);
+        for (Lane lane : Lane.values()) {
+            assertThat(limiters.getLimiter(lane).getAdmitted()).isEqualTo(limiters.getLimiter(lane).getInFlight());
+        }
+    }
+}
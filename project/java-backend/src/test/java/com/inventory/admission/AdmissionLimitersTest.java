@@ -0,0 +1,26 @@
+package com.inventory.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionLimitersTest {
+
+    @Test
+    void defaultLanesFitTheDefaultPool() {
+        AdmissionLimiters limiters = new AdmissionLimiters(new AdmissionProperties(), 10);
+
+        assertThat(limiters.getLimiter(Lane.HEAVY).getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void rejectsLanesThatCouldStarveTheCriticalLane() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.getHeavy().setMaxLimit(8);
+
+        assertThatThrownBy(() -> new AdmissionLimiters(properties, 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("pool has 10");
+    }
+}
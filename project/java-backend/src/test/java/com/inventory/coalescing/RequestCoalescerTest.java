@@ -0,0 +1,152 @@
+package com.inventory.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private double count(String key, String outcome) {
+        return registry.counter("coalescing.calls", "key", key, "outcome", outcome).count();
+    }
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ZERO, registry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<Integer> leader = pool.submit(() -> coalescer.execute("stats", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return 42;
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        List<Future<Integer>> followers = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            followers.add(pool.submit(() -> coalescer.execute("stats", () -> {
+                executions.incrementAndGet();
+                return -1;
+            })));
+        }
+        // Give the followers time to join the in-flight call before it completes
+        while (count("stats", "coalesced") < 16) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        for (Future<Integer> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(count("stats", "executed")).isEqualTo(1);
+    }
+
+    @Test
+    void failuresReachEveryWaiterAndAreNotCached() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5), registry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<Object> leader = pool.submit(() -> coalescer.execute("stats", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("database down");
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<Object> follower = pool.submit(() -> coalescer.execute("stats", () -> "unused"));
+        while (count("stats", "coalesced") < 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("database down");
+        assertThat(coalescer.execute("stats", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void reusesFinishedResultWithinFreshnessWindow() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5), registry);
+
+        assertThat(coalescer.execute("stats", () -> 1)).isEqualTo(1);
+        assertThat(coalescer.execute("stats", () -> 2)).isEqualTo(1);
+        assertThat(count("stats", "fresh")).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotReuseFinishedResultWithoutFreshnessWindow() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ZERO, registry);
+
+        assertThat(coalescer.execute("stats", () -> 1)).isEqualTo(1);
+        assertThat(coalescer.execute("stats", () -> 2)).isEqualTo(2);
+    }
+
+    @Test
+    void invalidateDropsFinishedResults() {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5), registry);
+        coalescer.execute("stats", () -> 1);
+
+        coalescer.invalidate();
+
+        assertThat(coalescer.execute("stats", () -> 2)).isEqualTo(2);
+    }
+
+    @Test
+    void queryRunningDuringInvalidateIsNotSharedAfterIt() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(Duration.ofSeconds(5), registry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        Future<String> stale = pool.submit(() -> coalescer.execute("stats", () -> {
+            started.countDown();
+            await(release);
+            return "before write";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        coalescer.invalidate();
+
+        // A caller arriving after the write must not join the older query
+        assertThat(coalescer.execute("stats", () -> "after write")).isEqualTo("after write");
+        release.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("before write");
+        // Nor reuse it once it finishes
+        assertThat(coalescer.execute("stats", () -> "unused")).isEqualTo("after write");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.inventory.reservation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpiryWheelTest {
+
+    private static final long TICK = 100;
+    private static final int BUCKETS = 8;
+
+    private final List<String> expired = new ArrayList<>();
+
+    private ExpiryWheel<String> wheelAt(long nowMillis) {
+        return new ExpiryWheel<>(TICK, BUCKETS, expired::add, nowMillis);
+    }
+
+    @Test
+    void expiresOnlyOnceTheDeadlineHasPassed() {
+        ExpiryWheel<String> wheel = wheelAt(0);
+        wheel.schedule("a", 250);
+
+        assertThat(wheel.advance(200)).isZero();
+        assertThat(wheel.advance(299)).isZero();
+        assertThat(wheel.advance(300)).isEqualTo(1);
+        assertThat(expired).containsExactly("a");
+        assertThat(wheel.advance(1_000)).isZero();
+    }
+
+    @Test
+    void deadlinesSeveralRevolutionsOutStayUntilTheirTurn() {
+        ExpiryWheel<String> wheel = wheelAt(0);
+        // Same bucket as tick 3, but three revolutions later
+        long farDeadline = (3 + 3 * BUCKETS) * TICK;
+        wheel.schedule("near", 3 * TICK);
+        wheel.schedule("far", farDeadline);
+
+        for (long now = TICK; now < farDeadline; now += TICK) {
+            wheel.advance(now);
+        }
+        assertThat(expired).containsExactly("near");
+
+        wheel.advance(farDeadline);
+        assertThat(expired).containsExactly("near", "far");
+    }
+
+    @Test
+    void catchesUpAfterMissedTicks() {
+        ExpiryWheel<String> wheel = wheelAt(0);
+        wheel.schedule("a", 150);
+        wheel.schedule("b", 450);
+        wheel.schedule("c", 2_000);
+
+        // One late call covers every bucket passed since the previous one
+        assertThat(wheel.advance(500)).isEqualTo(2);
+        assertThat(expired).containsExactlyInAnyOrder("a", "b");
+
+        // A gap longer than a full revolution still finds everything due
+        assertThat(wheel.advance(10_000)).isEqualTo(1);
+        assertThat(expired).contains("c");
+    }
+
+    @Test
+    void pastDeadlinesExpireOnTheNextTick() {
+        ExpiryWheel<String> wheel = wheelAt(1_000);
+        wheel.schedule("late", 100);
+
+        assertThat(wheel.advance(1_100)).isEqualTo(1);
+        assertThat(expired).containsExactly("late");
+    }
+
+    @Test
+    void rejectsNonPowerOfTwoBuckets() {
+        assertThatThrownBy(() -> new ExpiryWheel<String>(TICK, 6, expired::add, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
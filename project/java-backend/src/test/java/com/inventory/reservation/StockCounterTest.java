@@ -0,0 +1,116 @@
+package com.inventory.reservation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockCounterTest {
+
+    @Test
+    void reserveFailsWithoutChangingAnythingWhenShort() {
+        StockCounter counter = new StockCounter(10, 0);
+
+        assertThat(counter.tryReserve(7)).isTrue();
+        assertThat(counter.tryReserve(4)).isFalse();
+        assertThat(counter.getReserved()).isEqualTo(7);
+        assertThat(counter.getAvailable()).isEqualTo(3);
+    }
+
+    @Test
+    void releaseAndSetOnHandKeepTheOtherHalfIntact() {
+        StockCounter counter = new StockCounter(10, 0);
+        counter.tryReserve(6);
+
+        counter.setOnHand(4);
+        assertThat(counter.getOnHand()).isEqualTo(4);
+        assertThat(counter.getReserved()).isEqualTo(6);
+        assertThat(counter.getAvailable()).isEqualTo(-2);
+        assertThat(counter.tryReserve(1)).isFalse();
+
+        counter.release(6);
+        assertThat(counter.getOnHand()).isEqualTo(4);
+        assertThat(counter.getReserved()).isZero();
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        StockCounter counter = new StockCounter(1_000, 0);
+        int threads = 8;
+        int attemptsPerThread = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    int won = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (counter.tryReserve(1)) {
+                            won++;
+                        }
+                    }
+                    return won;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(1_000);
+            assertThat(counter.getReserved()).isEqualTo(1_000);
+            assertThat(counter.getOnHand()).isEqualTo(1_000);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentReserveReleaseAndStockUpdatesBalance() throws Exception {
+        StockCounter counter = new StockCounter(100, 0);
+        int threads = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 20_000; i++) {
+                        if (counter.tryReserve(3)) {
+                            counter.release(3);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            // Absolute on-hand updates racing the CAS loop must not disturb reserved
+            workers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 20_000; i++) {
+                    counter.setOnHand(50 + i % 100);
+                }
+                return null;
+            }));
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+
+            assertThat(counter.getReserved()).isZero();
+            assertThat(counter.getOnHand()).isEqualTo(50 + 19_999 % 100);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
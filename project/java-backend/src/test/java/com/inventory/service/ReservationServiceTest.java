@@ -0,0 +1,287 @@
+package com.inventory.service;
+
+import com.inventory.coalescing.RequestCoalescer;
+import com.inventory.model.Product;
+import com.inventory.model.ReservationStatus;
+import com.inventory.model.StockReservation;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.StockReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReservationServiceTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockReservationRepository reservationRepository;
+
+    @Mock
+    private RequestCoalescer requestCoalescer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ReservationService reservationService;
+
+    // Stands in for the product row's quantity column
+    private final AtomicInteger quantityRow = new AtomicInteger(10);
+    // Stands in for the stock_reservations table
+    private final Map<String, StockReservation> reservationRows = new ConcurrentHashMap<>();
+    // Batches written by flush
+    private final List<StockReservation> saved = new ArrayList<>();
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void setUp() {
+        configure(reservationService);
+
+        when(productRepository.findById(PRODUCT_ID)).thenAnswer(invocation -> {
+            Product product = new Product();
+            product.setId(PRODUCT_ID);
+            product.setQuantity(quantityRow.get());
+            return Optional.of(product);
+        });
+        when(productRepository.findQuantityById(PRODUCT_ID)).thenAnswer(invocation -> Optional.of(quantityRow.get()));
+        when(productRepository.decrementQuantity(eq(PRODUCT_ID), anyInt(), any())).thenAnswer(invocation -> {
+            int quantity = invocation.getArgument(1);
+            int current = quantityRow.get();
+            return current >= quantity && quantityRow.compareAndSet(current, current - quantity) ? 1 : 0;
+        });
+        when(reservationRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            Iterable<StockReservation> batch = invocation.getArgument(0);
+            synchronized (saved) {
+                batch.forEach(saved::add);
+            }
+            batch.forEach(row -> reservationRows.put(row.getId(), row));
+            return batch;
+        });
+        when(reservationRepository.save(any(StockReservation.class))).thenAnswer(invocation -> {
+            StockReservation row = invocation.getArgument(0);
+            reservationRows.put(row.getId(), row);
+            return row;
+        });
+        when(reservationRepository.findById(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(reservationRows.get(invocation.<String>getArgument(0))));
+        when(reservationRepository.findByStatus(any(ReservationStatus.class))).thenAnswer(invocation ->
+                reservationRows.values().stream().filter(row -> row.getStatus() == invocation.getArgument(0)).toList());
+    }
+
+    // Wire a service to the shared mocks, as Spring would
+    private void configure(ReservationService service) {
+        ReflectionTestUtils.setField(service, "defaultTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(service, "maxTtl", Duration.ofHours(24));
+        ReflectionTestUtils.setField(service, "productRepository", productRepository);
+        ReflectionTestUtils.setField(service, "reservationRepository", reservationRepository);
+        ReflectionTestUtils.setField(service, "requestCoalescer", requestCoalescer);
+        ReflectionTestUtils.setField(service, "transactionManager", transactionManager);
+    }
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void confirmTakesOnHandFromTheDatabase() {
+        StockReservation reservation = reservationService.createReservation(PRODUCT_ID, 4, null);
+
+        StockReservation confirmed = reservationService.confirmReservation(reservation.getId());
+
+        assertThat(confirmed.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        ReservationService.Availability availability = reservationService.getAvailability(PRODUCT_ID);
+        assertThat(availability.getOnHand()).isEqualTo(6);
+        assertThat(availability.getReserved()).isZero();
+        // Repeating a confirm is idempotent and does not decrement again
+        assertThat(reservationService.confirmReservation(reservation.getId()).getStatus())
+                .isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(quantityRow.get()).isEqualTo(6);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void confirmSurvivesARestartWithoutDecrementingAgain(boolean flushedBeforeConfirm) {
+        StockReservation reservation = reservationService.createReservation(PRODUCT_ID, 4, null);
+        if (flushedBeforeConfirm) {
+            reservationService.flush();
+        }
+        reservationService.confirmReservation(reservation.getId());
+
+        // The process dies before the next flush; a new instance rebuilds from the saved rows
+        ReservationService restarted = new ReservationService();
+        configure(restarted);
+        restarted.recoverActiveHolds();
+
+        assertThat(restarted.getAvailability(PRODUCT_ID).getReserved()).isZero();
+        assertThat(restarted.confirmReservation(reservation.getId()).getStatus())
+                .isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(quantityRow.get()).isEqualTo(6);
+        verify(productRepository, times(1)).decrementQuantity(eq(PRODUCT_ID), anyInt(), any());
+    }
+
+    @Test
+    void stockEditDuringConfirmIsNotOverwritten() {
+        StockReservation reservation = reservationService.createReservation(PRODUCT_ID, 4, null);
+        reservationService.confirmReservation(reservation.getId());
+
+        // A stock count lands after the confirm; on-hand follows the row, not a replayed delta
+        quantityRow.set(50);
+        reservationService.onStockChanged(PRODUCT_ID);
+
+        assertThat(reservationService.getAvailability(PRODUCT_ID).getOnHand()).isEqualTo(50);
+    }
+
+    @Test
+    void concurrentConfirmAndReleaseHaveExactlyOneWinner() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            quantityRow.set(10);
+            StockReservation reservation = reservationService.createReservation(PRODUCT_ID, 2, null);
+            CountDownLatch start = new CountDownLatch(1);
+
+            Future<ReservationStatus> confirm = pool.submit(() -> {
+                start.await();
+                return attempt(() -> reservationService.confirmReservation(reservation.getId()));
+            });
+            Future<ReservationStatus> release = pool.submit(() -> {
+                start.await();
+                return attempt(() -> reservationService.releaseReservation(reservation.getId()));
+            });
+            start.countDown();
+
+            ReservationStatus confirmOutcome = confirm.get(5, TimeUnit.SECONDS);
+            ReservationStatus releaseOutcome = release.get(5, TimeUnit.SECONDS);
+            StockReservation finalState = reservationService.getReservation(reservation.getId()).orElseThrow();
+
+            if (finalState.getStatus() == ReservationStatus.CONFIRMED) {
+                assertThat(confirmOutcome).isEqualTo(ReservationStatus.CONFIRMED);
+                assertThat(releaseOutcome).isNull();
+                assertThat(quantityRow.get()).isEqualTo(8);
+            } else {
+                assertThat(finalState.getStatus()).isEqualTo(ReservationStatus.RELEASED);
+                assertThat(releaseOutcome).isEqualTo(ReservationStatus.RELEASED);
+                assertThat(confirmOutcome).isNull();
+                assertThat(quantityRow.get()).isEqualTo(10);
+            }
+            assertThat(reservationService.getAvailability(PRODUCT_ID).getReserved()).isZero();
+        }
+    }
+
+    @Test
+    void expiredHoldCannotBeConfirmed() throws Exception {
+        StockReservation reservation = reservationService.createReservation(PRODUCT_ID, 3, 1L);
+        Thread.sleep(1_100);
+
+        assertThatThrownBy(() -> reservationService.confirmReservation(reservation.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("expired");
+        assertThat(quantityRow.get()).isEqualTo(10);
+        assertThat(reservationService.getAvailability(PRODUCT_ID).getReserved()).isZero();
+    }
+
+    @Test
+    void confirmInProgressBlocksReleaseExpiryAndFlush() throws Exception {
+        CountDownLatch decrementStarted = new CountDownLatch(1);
+        CountDownLatch finishDecrement = new CountDownLatch(1);
+        when(productRepository.decrementQuantity(eq(PRODUCT_ID), anyInt(), any())).thenAnswer(invocation -> {
+            decrementStarted.countDown();
+            finishDecrement.await(10, TimeUnit.SECONDS);
+            return quantityRow.addAndGet(-(int) invocation.getArgument(1)) >= 0 ? 1 : 0;
+        });
+        StockReservation reservation = reservationService.createReservation(PRODUCT_ID, 5, 1L);
+        reservationService.flush();
+        saved.clear();
+
+        Future<StockReservation> confirm = pool.submit(() -> reservationService.confirmReservation(reservation.getId()));
+        assertThat(decrementStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(reservationService.getReservation(reservation.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.CONFIRMING);
+        assertThatThrownBy(() -> reservationService.releaseReservation(reservation.getId()))
+                .isInstanceOf(IllegalStateException.class);
+        // Let the TTL and its wheel tick pass while the decrement is still running
+        Thread.sleep(2_100);
+        reservationService.expireHolds();
+        // A flush waits for the confirm transaction rather than writing a stale snapshot over it
+        Future<?> flush = pool.submit(reservationService::flush);
+        Thread.sleep(200);
+        assertThat(flush).isNotDone();
+
+        finishDecrement.countDown();
+        assertThat(confirm.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        flush.get(5, TimeUnit.SECONDS);
+        reservationService.flush();
+        assertThat(statuses(saved)).containsOnly(ReservationStatus.CONFIRMED);
+        assertThat(reservationRows.get(reservation.getId()).getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(reservationService.getAvailability(PRODUCT_ID).getReserved()).isZero();
+    }
+
+    @Test
+    void failedDecrementReleasesTheHoldAndPersistsIt() {
+        StockReservation reservation = reservationService.createReservation(PRODUCT_ID, 8, null);
+        // Stock was counted down underneath the hold
+        quantityRow.set(5);
+
+        assertThatThrownBy(() -> reservationService.confirmReservation(reservation.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Insufficient stock");
+
+        reservationService.flush();
+        assertThat(statuses(saved)).containsExactly(ReservationStatus.RELEASED);
+        assertThat(reservationService.getAvailability(PRODUCT_ID).getReserved()).isZero();
+    }
+
+    private static ReservationStatus attempt(Supplier<StockReservation> action) {
+        try {
+            return action.get().getStatus();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private static List<ReservationStatus> statuses(Collection<StockReservation> reservations) {
+        return reservations.stream().map(StockReservation::getStatus).toList();
+    }
+}